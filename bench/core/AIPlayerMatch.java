@@ -0,0 +1,121 @@
+package core;
+
+import java.util.Random;
+
+// plays AIPlayer against BaselineAIPlayer; lives outside src so it is not packaged with the game
+// usage: AIPlayerMatch <size> <requiredSymbols> <depth> <openings> <seed>
+// every random opening is played twice so that each engine gets both colours
+public class AIPlayerMatch {
+    private static final int OPENING_STONES = 4;
+
+    // index 0 is the baseline, index 1 is the engine with search extensions
+    private static long[] moves = new long[2];
+    private static long[] nodes = new long[2];
+    private static long[] nanos = new long[2];
+
+    public static void main(String[] args) {
+        int size = Integer.parseInt(args[0]);
+        int requiredSymbols = Integer.parseInt(args[1]);
+        int depth = Integer.parseInt(args[2]);
+        int openings = Integer.parseInt(args[3]);
+        long seed = Long.parseLong(args[4]);
+
+        Random random = new Random(seed);
+        int[] results = new int[3];
+
+        for (int i = 0; i < openings; ++i) {
+            int[][] opening = randomOpening(random, size);
+
+            for (int extensionsPlayX = 0; extensionsPlayX < 2; ++extensionsPlayX) {
+                int result = play(size, requiredSymbols, depth, opening, extensionsPlayX == 1);
+
+                if (result == 0) {
+                    ++results[2];
+                } else if ((result == 1) == (extensionsPlayX == 1)) {
+                    ++results[1];
+                } else {
+                    ++results[0];
+                }
+            }
+        }
+
+        System.out.printf("size=%d requiredSymbols=%d depth=%d openings=%d seed=%d%n",
+                size, requiredSymbols, depth, openings, seed);
+        System.out.printf("extensions %d, baseline %d, draws %d%n", results[1], results[0], results[2]);
+
+        String[] names = {"baseline", "extensions"};
+
+        for (int i = 0; i < 2; ++i) {
+            System.out.printf("%s: moves=%d nodes/move=%d ms/move=%.1f nodes/sec=%.0f%n",
+                    names[i], moves[i], nodes[i] / moves[i], nanos[i] / 1e6 / moves[i], nodes[i] / (nanos[i] / 1e9));
+        }
+    }
+
+    // distinct cells in the 4x4 square around the centre, alternately X and O
+    private static int[][] randomOpening(Random random, int size) {
+        int[][] opening = new int[OPENING_STONES][];
+        int low = Math.max(0, size / 2 - 2);
+        int span = Math.min(4, size - low);
+
+        for (int i = 0; i < OPENING_STONES; ++i) {
+            boolean taken;
+
+            do {
+                opening[i] = new int[]{low + random.nextInt(span), low + random.nextInt(span)};
+                taken = false;
+
+                for (int j = 0; j < i; ++j) {
+                    if (opening[j][0] == opening[i][0] && opening[j][1] == opening[i][1]) {
+                        taken = true;
+                    }
+                }
+            } while (taken);
+        }
+
+        return opening;
+    }
+
+    // returns 1 if X won, -1 if O won, 0 if it's a draw
+    private static int play(int size, int requiredSymbols, int depth, int[][] opening, boolean extensionsPlayX) {
+        String extensionsSymbol = extensionsPlayX ? "X" : "O";
+        String baselineSymbol = extensionsPlayX ? "O" : "X";
+
+        AIPlayer extensions = new AIPlayer(size, requiredSymbols, extensionsSymbol, baselineSymbol);
+        BaselineAIPlayer baseline = new BaselineAIPlayer(size, requiredSymbols, baselineSymbol, extensionsSymbol);
+
+        String symbol = "X";
+
+        for (int[] cell : opening) {
+            extensions.updateBoard(cell[0], cell[1], symbol);
+            baseline.updateBoard(cell[0], cell[1], symbol);
+            symbol = symbol.equals("X") ? "O" : "X";
+        }
+
+        while (extensions.gameOver() == 42) {
+            int[] move;
+            long start = System.nanoTime();
+
+            if (symbol.equals(extensionsSymbol)) {
+                long startNodes = extensions.getNodes();
+                move = extensions.next(depth);
+
+                nanos[1] += System.nanoTime() - start;
+                nodes[1] += extensions.getNodes() - startNodes;
+                ++moves[1];
+            } else {
+                long startNodes = baseline.getNodes();
+                move = baseline.next(depth);
+
+                nanos[0] += System.nanoTime() - start;
+                nodes[0] += baseline.getNodes() - startNodes;
+                ++moves[0];
+            }
+
+            extensions.updateBoard(move[0], move[1], symbol);
+            baseline.updateBoard(move[0], move[1], symbol);
+            symbol = symbol.equals("X") ? "O" : "X";
+        }
+
+        return extensions.gameOver();
+    }
+}
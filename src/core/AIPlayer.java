@@ -3,6 +3,26 @@ package core;
 import java.util.ArrayList;
 
 public class AIPlayer {
+    // threat types of an empty cell, ordered by urgency
+    private static final int QUIET = 0;
+    private static final int THREAT = 1;
+    private static final int DEFEND = 2;
+    private static final int BLOCK = 3;
+    private static final int WIN = 4;
+
+    // slot of the threat type in the {row, col, threatType} moves built by orderMoves
+    private static final int MOVE_TYPE = 2;
+
+    // threat types outrank neighbour counts because a cell has at most 8 neighbours
+    private static final int THREAT_RANK_WEIGHT = 9;
+
+    // row, column, main diagonal, anti-diagonal
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    private static final int QUIESCENCE_DEPTH = 4;
+    private static final int LMR_MIN_DEPTH = 3;
+    private static final int LMR_FULL_DEPTH_MOVES = 4;
+
     private int size;
     private String[][] board;
     private ArrayList<int[]> emptyCells;
@@ -17,6 +37,9 @@ public class AIPlayer {
     private int lastColIndex;
     private String lastSymbol;
 
+    // positions visited by the depth limited search, read by bench/core/AIPlayerMatch
+    private long nodes;
+
     public AIPlayer(int size, int requiredSymbols, String mySymbol, String opponentSymbol) {
         this.size = size;
         board = new String[size][size];
@@ -44,6 +67,8 @@ public class AIPlayer {
         lastRowIndex = -1;
         lastColIndex = -1;
         lastSymbol = "";
+
+        nodes = 0;
     }
 
     public void updateBoard(int row, int col, String symbol) {
@@ -133,8 +158,10 @@ public class AIPlayer {
         }
     }
 
-    // depth limited minimax WITH alpha–beta pruning
+    // depth limited minimax WITH alpha–beta pruning and late move reductions
     private int[] minimax(int depth, String symbol, int alpha, int beta) {
+        ++nodes;
+
         int score;
         int bestRow = -1;
         int bestCol = -1;
@@ -148,11 +175,16 @@ public class AIPlayer {
         } else if (emptyCells.isEmpty()) {
             return new int[]{0, bestRow, bestCol};
         } else if (depth == 0) {
-            return new int[]{evaluate(), bestRow, bestCol};
+            return new int[]{quiescence(QUIESCENCE_DEPTH, symbol, alpha, beta), bestRow, bestCol};
         } else {
-            for (int i = 0; i < emptyCells.size(); ++i) {
-                int currRow = emptyCells.get(i)[0];
-                int currCol = emptyCells.get(i)[1];
+            String nextSymbol = symbol.equals(mySymbol) ? opponentSymbol : mySymbol;
+            ArrayList<int[]> moves = orderMoves(symbol);
+
+            for (int k = 0; k < moves.size(); ++k) {
+                int currRow = moves.get(k)[0];
+                int currCol = moves.get(k)[1];
+                boolean quiet = moves.get(k)[MOVE_TYPE] == QUIET;
+                int i = indexOfEmptyCell(currRow, currCol);
 
                 board[currRow][currCol] = symbol;
                 emptyCells.remove(i);
@@ -161,21 +193,38 @@ public class AIPlayer {
                 lastColIndex = currCol;
                 lastSymbol = symbol;
 
-                if (symbol.equals(mySymbol)) {
-                    score = minimax(depth - 1, opponentSymbol, alpha, beta)[0];
+                // late quiet moves are first searched at depth - 2, one ply shallower than their siblings, with a null window
+                boolean reduce = depth >= LMR_MIN_DEPTH && k >= LMR_FULL_DEPTH_MOVES && quiet;
 
-                    if (score > alpha) {
-                        alpha = score;
-                        bestRow = currRow;
-                        bestCol = currCol;
+                if (symbol.equals(mySymbol)) {
+                    // a reduced search is trusted unless it fails high, then the move is re-searched at full depth
+                    if (!reduce || minimax(depth - 2, nextSymbol, alpha, alpha + 1)[0] > alpha) {
+                        lastRowIndex = currRow;
+                        lastColIndex = currCol;
+                        lastSymbol = symbol;
+
+                        score = minimax(depth - 1, nextSymbol, alpha, beta)[0];
+
+                        if (score > alpha) {
+                            alpha = score;
+                            bestRow = currRow;
+                            bestCol = currCol;
+                        }
                     }
                 } else {
-                    score = minimax(depth - 1, mySymbol, alpha, beta)[0];
-
-                    if (score < beta) {
-                        beta = score;
-                        bestRow = currRow;
-                        bestCol = currCol;
+                    // a reduced search is trusted unless it fails low, then the move is re-searched at full depth
+                    if (!reduce || minimax(depth - 2, nextSymbol, beta - 1, beta)[0] < beta) {
+                        lastRowIndex = currRow;
+                        lastColIndex = currCol;
+                        lastSymbol = symbol;
+
+                        score = minimax(depth - 1, nextSymbol, alpha, beta)[0];
+
+                        if (score < beta) {
+                            beta = score;
+                            bestRow = currRow;
+                            bestCol = currCol;
+                        }
                     }
                 }
 
@@ -195,6 +244,228 @@ public class AIPlayer {
         }
     }
 
+    // searches only forcing moves (wins, blocks, threats) so leaf scores are tactically quiet
+    private int quiescence(int depth, String symbol, int alpha, int beta) {
+        int[] types = new int[emptyCells.size()];
+        int maxType = QUIET;
+
+        for (int i = 0; i < emptyCells.size(); ++i) {
+            types[i] = threatType(emptyCells.get(i)[0], emptyCells.get(i)[1], symbol);
+            maxType = Math.max(maxType, types[i]);
+        }
+
+        // the side to move completes a line on its next move
+        if (maxType == WIN) {
+            if (symbol.equals(mySymbol)) {
+                return heuristicArray[requiredSymbols][0];
+            } else {
+                return heuristicArray[0][requiredSymbols];
+            }
+        }
+
+        if (depth == 0) {
+            return evaluate();
+        }
+
+        int wanted;
+
+        if (maxType == BLOCK) {
+            // an unanswered threat makes the static score meaningless, so only blocks are searched
+            wanted = BLOCK;
+        } else if (maxType == DEFEND) {
+            // an open three wins unless answered, so only its defences and counter-threats are searched
+            wanted = DEFEND;
+        } else {
+            int standPat = evaluate();
+
+            if (symbol.equals(mySymbol)) {
+                if (standPat >= beta) {
+                    return beta;
+                }
+
+                alpha = Math.max(alpha, standPat);
+            } else {
+                if (standPat <= alpha) {
+                    return alpha;
+                }
+
+                beta = Math.min(beta, standPat);
+            }
+
+            wanted = THREAT;
+        }
+
+        String nextSymbol = symbol.equals(mySymbol) ? opponentSymbol : mySymbol;
+
+        for (int i = 0; i < emptyCells.size(); ++i) {
+            if (types[i] != wanted && !(wanted == DEFEND && types[i] == THREAT)) {
+                continue;
+            }
+
+            int currRow = emptyCells.get(i)[0];
+            int currCol = emptyCells.get(i)[1];
+
+            board[currRow][currCol] = symbol;
+            emptyCells.remove(i);
+
+            // the horizon position is counted by minimax, so only quiescence children are counted here
+            ++nodes;
+
+            int score;
+
+            if (emptyCells.isEmpty()) {
+                score = 0;
+            } else {
+                score = quiescence(depth - 1, nextSymbol, alpha, beta);
+            }
+
+            board[currRow][currCol] = "";
+            emptyCells.add(i, new int[]{currRow, currCol});
+
+            if (symbol.equals(mySymbol)) {
+                alpha = Math.max(alpha, score);
+            } else {
+                beta = Math.min(beta, score);
+            }
+
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        if (symbol.equals(mySymbol)) {
+            return alpha;
+        } else {
+            return beta;
+        }
+    }
+
+    // returns the empty cells as {row, col, threatType}, forcing and crowded cells first
+    private ArrayList<int[]> orderMoves(String symbol) {
+        ArrayList<int[]> moves = new ArrayList<>(emptyCells.size());
+        ArrayList<Integer> ranks = new ArrayList<>(emptyCells.size());
+
+        for (int[] cell : emptyCells) {
+            int type = threatType(cell[0], cell[1], symbol);
+            int rank = type * THREAT_RANK_WEIGHT + occupiedNeighbours(cell[0], cell[1]);
+            int k = moves.size();
+
+            // stable insertion keeps the original order among equally ranked cells
+            while (k > 0 && ranks.get(k - 1) < rank) {
+                --k;
+            }
+
+            moves.add(k, new int[]{cell[0], cell[1], type});
+            ranks.add(k, rank);
+        }
+
+        return moves;
+    }
+
+    private int indexOfEmptyCell(int row, int col) {
+        for (int i = 0; i < emptyCells.size(); ++i) {
+            if (emptyCells.get(i)[0] == row && emptyCells.get(i)[1] == col) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int occupiedNeighbours(int row, int col) {
+        int counter = 0;
+
+        for (int i = Math.max(0, row - 1); i <= Math.min(size - 1, row + 1); ++i) {
+            for (int j = Math.max(0, col - 1); j <= Math.min(size - 1, col + 1); ++j) {
+                if (!board[i][j].isEmpty()) {
+                    ++counter;
+                }
+            }
+        }
+
+        return counter;
+    }
+
+    // classifies playing symbol on an empty cell by the strongest line window it touches
+    private int threatType(int row, int col, String symbol) {
+        String otherSymbol = symbol.equals(mySymbol) ? opponentSymbol : mySymbol;
+        int type = QUIET;
+
+        for (int[] direction : DIRECTIONS) {
+            for (int offset = 0; offset < requiredSymbols; ++offset) {
+                int startRow = row - offset * direction[0];
+                int startCol = col - offset * direction[1];
+                int endRow = startRow + (requiredSymbols - 1) * direction[0];
+                int endCol = startCol + (requiredSymbols - 1) * direction[1];
+
+                if (startRow < 0 || startRow >= size || startCol < 0 || startCol >= size ||
+                        endRow < 0 || endRow >= size || endCol < 0 || endCol >= size) {
+                    continue;
+                }
+
+                int ownCounter = 0;
+                int otherCounter = 0;
+
+                for (int j = 0; j < requiredSymbols; ++j) {
+                    String cellSymbol = board[startRow + j * direction[0]][startCol + j * direction[1]];
+
+                    if (cellSymbol.equals(symbol)) {
+                        ++ownCounter;
+                    } else if (cellSymbol.equals(otherSymbol)) {
+                        ++otherCounter;
+                    }
+                }
+
+                if (otherCounter == 0 && ownCounter == requiredSymbols - 1) {
+                    return WIN;
+                } else if (ownCounter == 0 && otherCounter == requiredSymbols - 1) {
+                    type = BLOCK;
+                } else if (otherCounter == 0 && ownCounter == requiredSymbols - 2 && type < THREAT) {
+                    type = THREAT;
+                }
+            }
+        }
+
+        if (type == BLOCK) {
+            return type;
+        }
+
+        // open three: requiredSymbols - 2 opposing stones inside a window one cell longer with both ends empty
+        for (int[] direction : DIRECTIONS) {
+            for (int offset = 0; offset <= requiredSymbols; ++offset) {
+                int startRow = row - offset * direction[0];
+                int startCol = col - offset * direction[1];
+                int endRow = startRow + requiredSymbols * direction[0];
+                int endCol = startCol + requiredSymbols * direction[1];
+
+                if (startRow < 0 || startRow >= size || startCol < 0 || startCol >= size ||
+                        endRow < 0 || endRow >= size || endCol < 0 || endCol >= size ||
+                        !board[startRow][startCol].isEmpty() || !board[endRow][endCol].isEmpty()) {
+                    continue;
+                }
+
+                int ownCounter = 0;
+                int otherCounter = 0;
+
+                for (int j = 1; j < requiredSymbols; ++j) {
+                    String cellSymbol = board[startRow + j * direction[0]][startCol + j * direction[1]];
+
+                    if (cellSymbol.equals(symbol)) {
+                        ++ownCounter;
+                    } else if (cellSymbol.equals(otherSymbol)) {
+                        ++otherCounter;
+                    }
+                }
+
+                if (ownCounter == 0 && otherCounter == requiredSymbols - 2) {
+                    return DEFEND;
+                }
+            }
+        }
+
+        return type;
+    }
+
     private boolean hasWon(int row, int col, String symbol) {
         // if computer starts and the board is empty
         if (row == -1) {
@@ -408,6 +679,10 @@ public class AIPlayer {
         return false;
     }
 
+    long getNodes() {
+        return nodes;
+    }
+
     // returns 1 if X won, -1 if O won, 0 if it's a draw, 42 if it's not game over
     public int gameOver() {
         if (hasWon(lastRowIndex, lastColIndex, lastSymbol)) {